@@ -13,6 +13,7 @@ public class AddExpenseCommand extends Command {
 
     @Override
     public void execute(FinancialTracker finances, Ui ui) {
-        //TODO
+        finances.addEntry(expense);
+        ui.printExpenseAdded();
     }
 }
@@ -13,6 +13,7 @@ public class AddIncomeCommand extends Command {
 
     @Override
     public void execute(FinancialTracker finances, Ui ui) {
-        //TODO
+        finances.addEntry(income);
+        ui.printIncomeAdded();
     }
 }
@@ -0,0 +1,11 @@
+package seedu.commands;
+
+import seedu.utility.FinancialTracker;
+import seedu.utility.Ui;
+
+public class AnalyzeExpenseCommand extends Command {
+    @Override
+    public void execute(FinancialTracker finances, Ui ui) {
+        ui.printExpenseStatistics(finances.getExpenseStatistics());
+    }
+}
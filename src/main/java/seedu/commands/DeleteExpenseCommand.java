@@ -12,6 +12,11 @@ public class DeleteExpenseCommand extends Command {
 
     @Override
     public void execute(FinancialTracker finances, Ui ui) {
-        //TODO
+        try {
+            finances.deleteExpense(expenseIndex);
+            ui.printExpenseDeleted();
+        } catch (IndexOutOfBoundsException e) {
+            ui.printInvalidIndex(e.getMessage());
+        }
     }
 }
@@ -4,14 +4,19 @@ import seedu.utility.FinancialTracker;
 import seedu.utility.Ui;
 
 public class DeleteIncomeCommand extends Command {
-    private int expenseIndex;
+    private int incomeIndex;
 
-    public DeleteIncomeCommand(int expenseIndex) {
-        this.expenseIndex = expenseIndex;
+    public DeleteIncomeCommand(int incomeIndex) {
+        this.incomeIndex = incomeIndex;
     }
 
     @Override
     public void execute(FinancialTracker finances, Ui ui) {
-        //TODO
+        try {
+            finances.deleteIncome(incomeIndex);
+            ui.printIncomeDeleted();
+        } catch (IndexOutOfBoundsException e) {
+            ui.printInvalidIndex(e.getMessage());
+        }
     }
 }
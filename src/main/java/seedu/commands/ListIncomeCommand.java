@@ -6,6 +6,6 @@ import seedu.utility.Ui;
 public class ListIncomeCommand extends Command {
     @Override
     public void execute(FinancialTracker finances, Ui ui) {
-        //TODO
+        ui.listIncome(finances.listIncome());
     }
 }
@@ -6,6 +6,6 @@ import seedu.utility.Ui;
 public class TotalExpenseCommand extends Command {
     @Override
     public void execute(FinancialTracker finances, Ui ui) {
-        //TODO
+        ui.printTotalExpense(finances.getTotalExpense());
     }
 }
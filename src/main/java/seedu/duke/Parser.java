@@ -2,6 +2,7 @@ package seedu.duke;
 
 import seedu.commands.AddExpenseCommand;
 import seedu.commands.AddIncomeCommand;
+import seedu.commands.AnalyzeExpenseCommand;
 import seedu.commands.ListExpenseCommand;
 import seedu.commands.ListIncomeCommand;
 import seedu.commands.DeleteExpenseCommand;
@@ -13,6 +14,7 @@ import seedu.commands.TotalIncomeCommand;
 import seedu.commands.Command;
 import seedu.commands.ExitCommand;
 
+import seedu.entry.DescriptionStore;
 import seedu.entry.Expense;
 import seedu.entry.Income;
 
@@ -67,8 +69,15 @@ public class Parser {
     private static final String LIST_INCOME_KEYWORD = "list_in";
     private static final String TOTAL_EXPENSE_KEYWORD = "total_ex";
     private static final String TOTAL_INCOME_KEYWORD = "total_in";
+    private static final String ANALYZE_EXPENSE_KEYWORD = "analyze";
     private static final String EXIT_KEYWORD = "end";
 
+    private DescriptionStore descriptions;
+
+    public Parser() {
+        this.descriptions = new DescriptionStore();
+    }
+
     /**
      * Parses user input into command for execution.
      * This was adapted from addressbook-level2 source code here:
@@ -105,6 +114,8 @@ public class Parser {
             return prepareTotalExpense(arguments);
         case TOTAL_INCOME_KEYWORD:
             return prepareTotalIncome(arguments);
+        case ANALYZE_EXPENSE_KEYWORD:
+            return prepareAnalyzeExpense(arguments);
         case EXIT_KEYWORD:
             return prepareExit(arguments);
         default:
@@ -132,8 +143,7 @@ public class Parser {
             return new InvalidCommand();
         }
         
-        //need to create constructor for Expense
-        Expense expense = new Expense();
+        Expense expense = new Expense(descriptions, expenseDescription, expenseAmount);
         return new AddExpenseCommand(expense);
     }
 
@@ -157,8 +167,7 @@ public class Parser {
             return new InvalidCommand();
         }
         
-        //need to add the constructor for Income
-        Income income = new Income();
+        Income income = new Income(descriptions, incomeDescription, incomeAmount);
         return new AddIncomeCommand(income);
     }
 
@@ -228,6 +237,13 @@ public class Parser {
         return new InvalidCommand();
     }
     
+    private Command prepareAnalyzeExpense(String arguments) {
+        if (arguments.trim().isBlank()) {
+            return new AnalyzeExpenseCommand();
+        }
+        return new InvalidCommand();
+    }
+
     private Command prepareExit(String arguments) {
         if (arguments.trim().isBlank()) {
             return new ExitCommand();
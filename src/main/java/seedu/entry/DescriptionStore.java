@@ -0,0 +1,45 @@
+package seedu.entry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Keeps a single copy of every distinct entry description and hands out int ids that refer to it.
+ * Descriptions such as "lunch" or "rent" repeat heavily, so entries hold the id instead of their own string.
+ * Descriptions are kept for as long as the store is, even after the entries using them are deleted.
+ * The store is not thread-safe and is meant to be owned by a single Parser.
+ */
+public class DescriptionStore {
+    private ArrayList<String> descriptions;
+    private HashMap<String, Integer> descriptionIds;
+
+    public DescriptionStore() {
+        this.descriptions = new ArrayList<>();
+        this.descriptionIds = new HashMap<>();
+    }
+
+    /**
+     * Returns the id of the given description, storing it first if it has not been seen before.
+     *
+     * @param description the description to store
+     * @return the id referring to the stored description
+     */
+    public int store(String description) {
+        Integer existingId = descriptionIds.get(description);
+        if (existingId != null) {
+            return existingId;
+        }
+        int newId = descriptions.size();
+        descriptions.add(description);
+        descriptionIds.put(description, newId);
+        return newId;
+    }
+
+    public String get(int descriptionId) {
+        return descriptions.get(descriptionId);
+    }
+
+    public int size() {
+        return descriptions.size();
+    }
+}
@@ -1,7 +1,25 @@
 package seedu.entry;
 
 public abstract class Entry {
-    public static int getValue() {
-        return 0;
+    private DescriptionStore descriptions;
+    private int descriptionId;
+    private int value;
+
+    public Entry() {
+        this(new DescriptionStore(), "", 0);
+    }
+
+    public Entry(DescriptionStore descriptions, String description, int value) {
+        this.descriptions = descriptions;
+        this.descriptionId = descriptions.store(description);
+        this.value = value;
+    }
+
+    public String getDescription() {
+        return descriptions.get(descriptionId);
+    }
+
+    public int getValue() {
+        return value;
     }
 }
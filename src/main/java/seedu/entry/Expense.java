@@ -1,4 +1,11 @@
 package seedu.entry;
 
-public class Expense extends Entry{
+public class Expense extends Entry {
+    public Expense() {
+        super();
+    }
+
+    public Expense(DescriptionStore descriptions, String description, int value) {
+        super(descriptions, description, value);
+    }
 }
@@ -1,4 +1,11 @@
 package seedu.entry;
 
-public class Income extends Entry{
+public class Income extends Entry {
+    public Income() {
+        super();
+    }
+
+    public Income(DescriptionStore descriptions, String description, int value) {
+        super(descriptions, description, value);
+    }
 }
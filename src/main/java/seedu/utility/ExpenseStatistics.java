@@ -0,0 +1,89 @@
+package seedu.utility;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Summary statistics over the amounts of all expenses, computed once from a snapshot of the amounts.
+ */
+public class ExpenseStatistics {
+    public static final int TOP_COUNT = 3;
+    public static final int HISTOGRAM_BUCKETS = 5;
+
+    private int[] sortedAmounts;
+
+    public ExpenseStatistics(int[] amounts) {
+        this.sortedAmounts = amounts.clone();
+        Arrays.sort(sortedAmounts);
+    }
+
+    public int getCount() {
+        return sortedAmounts.length;
+    }
+
+    public int getMedian() {
+        return getPercentile(50);
+    }
+
+    /**
+     * Returns the amount at the given percentile using the nearest-rank method.
+     *
+     * @param percentile the percentile to look up, from 1 to 100
+     * @return the amount at that percentile, or 0 if there are no expenses
+     */
+    public int getPercentile(int percentile) {
+        assert percentile > 0 && percentile <= 100;
+        if (sortedAmounts.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedAmounts.length);
+        return sortedAmounts[rank - 1];
+    }
+
+    /**
+     * Returns the largest expense amounts, largest first.
+     *
+     * @return up to TOP_COUNT of the largest amounts
+     */
+    public ArrayList<Integer> getTopAmounts() {
+        ArrayList<Integer> topAmounts = new ArrayList<>();
+        for (int i = sortedAmounts.length - 1; i >= 0 && topAmounts.size() < TOP_COUNT; i--) {
+            topAmounts.add(sortedAmounts[i]);
+        }
+        return topAmounts;
+    }
+
+    public int getMinimum() {
+        return sortedAmounts.length == 0 ? 0 : sortedAmounts[0];
+    }
+
+    public int getMaximum() {
+        return sortedAmounts.length == 0 ? 0 : sortedAmounts[sortedAmounts.length - 1];
+    }
+
+    /**
+     * Returns the number of expenses falling into each of up to HISTOGRAM_BUCKETS equal-width buckets
+     * spanning the minimum to the maximum amount. Fewer buckets are used when the amounts span fewer values.
+     *
+     * @return the count of expenses in each bucket, lowest bucket first, or an empty array if there are no expenses
+     */
+    public int[] getHistogram() {
+        if (sortedAmounts.length == 0) {
+            return new int[0];
+        }
+        long minimum = getMinimum();
+        long bucketWidth = getBucketWidth();
+        int bucketCount = (int) ((getMaximum() - minimum) / bucketWidth) + 1;
+        int[] histogram = new int[bucketCount];
+        for (int amount : sortedAmounts) {
+            int bucket = (int) ((amount - minimum) / bucketWidth);
+            histogram[bucket]++;
+        }
+        return histogram;
+    }
+
+    public long getBucketWidth() {
+        long range = (long) getMaximum() - getMinimum() + 1;
+        return (range + HISTOGRAM_BUCKETS - 1) / HISTOGRAM_BUCKETS;
+    }
+}
@@ -1,14 +1,24 @@
 package seedu.utility;
 
 import seedu.entry.Entry;
+import seedu.entry.Expense;
+import seedu.entry.Income;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 public class FinancialTracker {
+    private static final int QUERY_CACHE_CAPACITY = 16;
+    private static final String EXPENSE_TYPE = "expense";
+    private static final String INCOME_TYPE = "income";
+
     private ArrayList<Entry> financialEntries;
+    private QueryCache queryCache;
 
     public FinancialTracker() {
         this.financialEntries = new ArrayList<>();
+        this.queryCache = new QueryCache(QUERY_CACHE_CAPACITY);
     }
 
     public int size() {
@@ -21,30 +31,108 @@ public class FinancialTracker {
 
     public void addEntry(Entry entry) {
         financialEntries.add(entry);
-        //TODO
+        markModified(entry);
+    }
+
+    /**
+     * Deletes the expense at the given position among expenses only, numbered from 1 as in the expense listing.
+     *
+     * @param expenseIndex the position of the expense to delete, starting from 1
+     * @return the deleted expense
+     * @throws IndexOutOfBoundsException if there is no expense at that position
+     */
+    public Entry deleteExpense(int expenseIndex) {
+        return deleteEntry(Expense.class, expenseIndex);
+    }
+
+    /**
+     * Deletes the income at the given position among incomes only, numbered from 1 as in the income listing.
+     *
+     * @param incomeIndex the position of the income to delete, starting from 1
+     * @return the deleted income
+     * @throws IndexOutOfBoundsException if there is no income at that position
+     */
+    public Entry deleteIncome(int incomeIndex) {
+        return deleteEntry(Income.class, incomeIndex);
+    }
+
+    private Entry deleteEntry(Class<? extends Entry> entryType, int typeIndex) {
+        int position = 0;
+        for (int i = 0; i < financialEntries.size(); i++) {
+            if (!entryType.isInstance(financialEntries.get(i))) {
+                continue;
+            }
+            position++;
+            if (position == typeIndex) {
+                Entry removedEntry = financialEntries.remove(i);
+                markModified(removedEntry);
+                return removedEntry;
+            }
+        }
+        throw new IndexOutOfBoundsException("No " + entryType.getSimpleName().toLowerCase()
+                + " at index " + typeIndex);
+    }
+
+    /**
+     * Drops cached results of queries that read the type of the given entry.
+     *
+     * @param entry the entry that was added or removed
+     */
+    private void markModified(Entry entry) {
+        if (entry instanceof Expense) {
+            queryCache.invalidate(EXPENSE_TYPE);
+        } else if (entry instanceof Income) {
+            queryCache.invalidate(INCOME_TYPE);
+        }
+    }
+
+    public List<Entry> listExpense() {
+        return queryCache.get(EXPENSE_TYPE, "list", () -> filterEntries(Expense.class));
+    }
+
+    public List<Entry> listIncome() {
+        return queryCache.get(INCOME_TYPE, "list", () -> filterEntries(Income.class));
+    }
+
+    private List<Entry> filterEntries(Class<? extends Entry> entryType) {
+        ArrayList<Entry> filteredEntries = new ArrayList<>();
+        for (Entry entry : financialEntries) {
+            if (entryType.isInstance(entry)) {
+                filteredEntries.add(entry);
+            }
+        }
+        return Collections.unmodifiableList(filteredEntries);
     }
 
-    public void deleteEntry(int entryIndex) {
-        //TODO
+    public int getTotalExpense() {
+        return queryCache.get(EXPENSE_TYPE, "total", () -> sumValues(Expense.class));
     }
 
-    public ArrayList<Entry> listExpense() {
-        //TODO
-        return null;
+    public int getTotalIncome() {
+        return queryCache.get(INCOME_TYPE, "total", () -> sumValues(Income.class));
     }
 
-    public ArrayList<Entry> listIncome() {
-        //TODO
-        return null;
+    private int sumValues(Class<? extends Entry> entryType) {
+        int total = 0;
+        for (Entry entry : financialEntries) {
+            if (entryType.isInstance(entry)) {
+                total += entry.getValue();
+            }
+        }
+        return total;
     }
 
-    public Entry getTotalExpense() {
-        //TODO
-        return null;
+    public ExpenseStatistics getExpenseStatistics() {
+        return queryCache.get(EXPENSE_TYPE, "statistics", () -> {
+            int[] amounts = financialEntries.stream()
+                    .filter(entry -> entry instanceof Expense)
+                    .mapToInt(Entry::getValue)
+                    .toArray();
+            return new ExpenseStatistics(amounts);
+        });
     }
 
-    public Entry getTotalIncome() {
-        //TODO
-        return null;
+    public double getQueryCacheHitRate() {
+        return queryCache.getHitRate();
     }
 }
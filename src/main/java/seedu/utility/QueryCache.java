@@ -0,0 +1,84 @@
+package seedu.utility;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of query results that evicts the least recently used result once full.
+ * Results are keyed by the entry type the query reads and are dropped explicitly when that type changes.
+ */
+public class QueryCache {
+    private static final String KEY_SEPARATOR = ":";
+
+    private final int capacity;
+    private LinkedHashMap<String, Object> results;
+    private int hits;
+    private int misses;
+
+    public QueryCache(int capacity) {
+        assert capacity > 0;
+        this.capacity = capacity;
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+                return size() > QueryCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached result of the query, running the query and caching its result on a miss.
+     * Cached results are shared between callers and must not be modified.
+     *
+     * @param entryType the entry type the query reads
+     * @param queryName the name of the query
+     * @param query the query to run on a miss
+     * @return the result of the query
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String entryType, String queryName, Supplier<T> query) {
+        String key = entryType + KEY_SEPARATOR + queryName;
+        if (results.containsKey(key)) {
+            hits++;
+            return (T) results.get(key);
+        }
+        misses++;
+        T result = query.get();
+        results.put(key, result);
+        return result;
+    }
+
+    /**
+     * Drops every cached result of queries that read the given entry type.
+     *
+     * @param entryType the entry type that has changed
+     */
+    public void invalidate(String entryType) {
+        String keyPrefix = entryType + KEY_SEPARATOR;
+        Iterator<String> keys = results.keySet().iterator();
+        while (keys.hasNext()) {
+            if (keys.next().startsWith(keyPrefix)) {
+                keys.remove();
+            }
+        }
+    }
+
+    public int size() {
+        return results.size();
+    }
+
+    public int getHits() {
+        return hits;
+    }
+
+    public int getMisses() {
+        return misses;
+    }
+
+    public double getHitRate() {
+        int lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
@@ -1,9 +1,7 @@
 package seedu.utility;
 
-import seedu.entry.Expense;
-import seedu.entry.Income;
+import seedu.entry.Entry;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Scanner;
@@ -26,7 +24,7 @@ public class Ui {
     
     
     protected static final List<String> commands = Arrays.asList("help", "add_ex", "del_ex",
-            "list_ex", "total_ex", "add_in", "del_in", "list_in", "total_in");
+            "list_ex", "total_ex", "add_in", "del_in", "list_in", "total_in", "analyze");
 
     public Ui() {
         this.in = new Scanner(System.in);
@@ -50,50 +48,50 @@ public class Ui {
         System.out.println(" ");
     }
     
-    public void listExpense(ArrayList<Object> entries) {
+    public void listExpense(List<Entry> entries) {
         int i = 1;
-        for (Object entry:entries) {
-            if (entry instanceof Expense) {
-                System.out.println(i);
-                System.out.println(": ");
-                System.out.println(entry);
-                i++;
-            }
+        for (Entry entry:entries) {
+            System.out.println(i + ": " + entry.getDescription() + " (" + entry.getValue() + ")");
+            i++;
         }  
     }
     
-    public void listIncome(ArrayList<Object> entries) {
+    public void listIncome(List<Entry> entries) {
         int i = 1;
-        for (Object entry:entries) {
-            if (entry instanceof Income) {
-                System.out.println(i);
-                System.out.println(": ");
-                System.out.println(entry);
-                i++;
-            }
+        for (Entry entry:entries) {
+            System.out.println(i + ": " + entry.getDescription() + " (" + entry.getValue() + ")");
+            i++;
         }
     }
     
-    public void printTotalExpense(ArrayList<Object> entries) {
-        int totalExpense = 0;
-        for (Object entry:entries) {
-            if (entry instanceof Expense) {
-                totalExpense += Expense.getValue();
-            }
-        }
+    public void printTotalExpense(int totalExpense) {
         System.out.printf("Your total expense is: %d\n",totalExpense);
     }
     
-    public void printTotalIncome(ArrayList<Object> entries) {
-        int totalIncome = 0;
-        for (Object entry:entries) {
-            if (entry instanceof Income) {
-                totalIncome += Income.getValue();
-            }
-        }
+    public void printTotalIncome(int totalIncome) {
         System.out.printf("Your total income is: %d\n",totalIncome);
     }
     
+    public void printExpenseStatistics(ExpenseStatistics statistics) {
+        if (statistics.getCount() == 0) {
+            System.out.println("You have no expenses to analyze!");
+            return;
+        }
+        System.out.printf("Number of expenses: %d\n", statistics.getCount());
+        System.out.printf("Median expense: %d\n", statistics.getMedian());
+        System.out.printf("90th percentile expense: %d\n", statistics.getPercentile(90));
+        System.out.println("Largest expenses: " + statistics.getTopAmounts());
+        int[] histogram = statistics.getHistogram();
+        long bucketWidth = statistics.getBucketWidth();
+        long maximum = statistics.getMaximum();
+        long bucketStart = statistics.getMinimum();
+        for (int count : histogram) {
+            long bucketEnd = Math.min(bucketStart + bucketWidth - 1, maximum);
+            System.out.printf("%d - %d: %d\n", bucketStart, bucketEnd, count);
+            bucketStart = bucketEnd + 1;
+        }
+    }
+    
     public void printExpenseAdded() {
         System.out.println("Your most recent spending: ");
     }
@@ -110,6 +108,10 @@ public class Ui {
         System.out.println(".... has been removed");
     }
     
+    public void printInvalidIndex(String errorMessage) {
+        System.out.println(errorMessage + "!");
+    }
+    
     public void printHelp() {
         for (String command:commands) {
             System.out.println(command + ": ");
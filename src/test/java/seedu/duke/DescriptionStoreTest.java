@@ -0,0 +1,30 @@
+package seedu.duke;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+import seedu.entry.DescriptionStore;
+import seedu.entry.Expense;
+import seedu.entry.Income;
+
+public class DescriptionStoreTest {
+    @Test
+    public void store_repeatedDescription_expectSameIdAndSingleCopy() {
+        DescriptionStore testStore = new DescriptionStore();
+        int firstId = testStore.store("lunch");
+        int secondId = testStore.store(new String("lunch"));
+        testStore.store("rent");
+        assertEquals(firstId, secondId);
+        assertEquals(2, testStore.size());
+    }
+
+    @Test
+    public void getDescription_entriesWithSameDescription_expectSharedString() {
+        DescriptionStore testStore = new DescriptionStore();
+        Expense expense = new Expense(testStore, new String("grab"), 5);
+        Income income = new Income(testStore, new String("grab"), 5);
+        assertEquals("grab", expense.getDescription());
+        assertSame(expense.getDescription(), income.getDescription());
+    }
+}
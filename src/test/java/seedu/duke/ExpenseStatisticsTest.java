@@ -0,0 +1,47 @@
+package seedu.duke;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import seedu.utility.ExpenseStatistics;
+
+import java.util.List;
+
+public class ExpenseStatisticsTest {
+    @Test
+    public void getStatistics_noAmounts_expectZeroesAndEmptyResults() {
+        ExpenseStatistics statistics = new ExpenseStatistics(new int[]{});
+        assertEquals(0, statistics.getCount());
+        assertEquals(0, statistics.getMedian());
+        assertEquals(0, statistics.getPercentile(100));
+        assertTrue(statistics.getTopAmounts().isEmpty());
+        assertArrayEquals(new int[]{}, statistics.getHistogram());
+    }
+
+    @Test
+    public void getStatistics_singleAmount_expectThatAmountEverywhere() {
+        ExpenseStatistics statistics = new ExpenseStatistics(new int[]{8});
+        assertEquals(8, statistics.getMedian());
+        assertEquals(8, statistics.getPercentile(1));
+        assertEquals(8, statistics.getPercentile(100));
+        assertEquals(List.of(8), statistics.getTopAmounts());
+        assertArrayEquals(new int[]{1}, statistics.getHistogram());
+    }
+
+    @Test
+    public void getHistogram_equalAmounts_expectSingleBucket() {
+        ExpenseStatistics statistics = new ExpenseStatistics(new int[]{3, 3, 3});
+        assertArrayEquals(new int[]{3}, statistics.getHistogram());
+    }
+
+    @Test
+    public void getPercentile_boundaryPercentiles_expectMinimumAndMaximum() {
+        ExpenseStatistics statistics = new ExpenseStatistics(new int[]{40, 5, 12, 7});
+        assertEquals(5, statistics.getPercentile(1));
+        assertEquals(40, statistics.getPercentile(100));
+        assertEquals(5, statistics.getMinimum());
+        assertEquals(40, statistics.getMaximum());
+    }
+}
@@ -1,14 +1,25 @@
 package seedu.duke;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
+import seedu.entry.DescriptionStore;
+import seedu.entry.Entry;
 import seedu.entry.Expense;
 import seedu.entry.Income;
+import seedu.utility.ExpenseStatistics;
 import seedu.utility.FinancialTracker;
 
+import java.util.List;
+
 public class FinancialTrackerTest {
+    private DescriptionStore descriptions = new DescriptionStore();
+
     @Test
     public void addEntry_twoEntryObjects_expectSizeOfListToBeTwo() {
         FinancialTracker testTracker = new FinancialTracker();
@@ -16,4 +27,89 @@ public class FinancialTrackerTest {
         testTracker.addEntry(new Income());
         assertTrue(testTracker.isEmpty() == false && testTracker.size() == 2);
     }
+
+    @Test
+    public void getExpenseStatistics_mixedEntries_expectStatisticsOverExpensesOnly() {
+        FinancialTracker testTracker = new FinancialTracker();
+        testTracker.addEntry(new Expense(descriptions, "lunch", 5));
+        testTracker.addEntry(new Expense(descriptions, "rent", 40));
+        testTracker.addEntry(new Income(descriptions, "salary", 1000));
+        testTracker.addEntry(new Expense(descriptions, "grab", 12));
+        testTracker.addEntry(new Expense(descriptions, "lunch", 7));
+        ExpenseStatistics statistics = testTracker.getExpenseStatistics();
+        assertEquals(4, statistics.getCount());
+        assertEquals(7, statistics.getMedian());
+        assertEquals(40, statistics.getPercentile(90));
+        assertEquals(List.of(40, 12, 7), statistics.getTopAmounts());
+        assertArrayEquals(new int[]{3, 0, 0, 0, 1}, statistics.getHistogram());
+    }
+
+    @Test
+    public void listExpense_repeatedWithoutExpenseChanges_expectCachedResult() {
+        FinancialTracker testTracker = new FinancialTracker();
+        testTracker.addEntry(new Expense(descriptions, "lunch", 5));
+        List<Entry> firstList = testTracker.listExpense();
+        testTracker.addEntry(new Income(descriptions, "salary", 1000));
+        assertSame(firstList, testTracker.listExpense());
+        assertEquals(0.5, testTracker.getQueryCacheHitRate());
+    }
+
+    @Test
+    public void listExpense_afterAddingAndDeletingExpense_expectFreshResult() {
+        FinancialTracker testTracker = new FinancialTracker();
+        testTracker.addEntry(new Expense(descriptions, "lunch", 5));
+        List<Entry> firstList = testTracker.listExpense();
+        testTracker.addEntry(new Expense(descriptions, "rent", 40));
+        List<Entry> secondList = testTracker.listExpense();
+        assertNotSame(firstList, secondList);
+        assertEquals(2, secondList.size());
+        testTracker.deleteExpense(1);
+        assertEquals(1, testTracker.listExpense().size());
+    }
+
+    @Test
+    public void listExpense_modifyReturnedList_expectCachedListUnchanged() {
+        FinancialTracker testTracker = new FinancialTracker();
+        testTracker.addEntry(new Expense(descriptions, "lunch", 5));
+        testTracker.addEntry(new Expense(descriptions, "rent", 40));
+        List<Entry> expenses = testTracker.listExpense();
+        assertThrows(UnsupportedOperationException.class, () -> expenses.clear());
+        assertEquals(2, testTracker.listExpense().size());
+    }
+
+    @Test
+    public void deleteExpense_indexAmongExpensesOnly_expectMatchingExpenseDeleted() {
+        FinancialTracker testTracker = new FinancialTracker();
+        testTracker.addEntry(new Income(descriptions, "salary", 1000));
+        testTracker.addEntry(new Expense(descriptions, "lunch", 5));
+        testTracker.addEntry(new Expense(descriptions, "rent", 40));
+        Entry deletedExpense = testTracker.deleteExpense(2);
+        assertEquals("rent", deletedExpense.getDescription());
+        assertEquals(1, testTracker.listIncome().size());
+        assertEquals("lunch", testTracker.listExpense().get(0).getDescription());
+    }
+
+    @Test
+    public void deleteIncome_indexOutOfRange_expectExceptionAndNothingDeleted() {
+        FinancialTracker testTracker = new FinancialTracker();
+        testTracker.addEntry(new Income(descriptions, "salary", 1000));
+        testTracker.addEntry(new Expense(descriptions, "lunch", 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> testTracker.deleteIncome(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> testTracker.deleteIncome(0));
+        assertEquals(2, testTracker.size());
+    }
+
+    @Test
+    public void getTotalExpense_repeatedUntilExpenseAdded_expectCachedThenFreshTotal() {
+        FinancialTracker testTracker = new FinancialTracker();
+        testTracker.addEntry(new Expense(descriptions, "lunch", 5));
+        testTracker.addEntry(new Expense(descriptions, "rent", 40));
+        testTracker.addEntry(new Income(descriptions, "salary", 1000));
+        assertEquals(45, testTracker.getTotalExpense());
+        assertEquals(45, testTracker.getTotalExpense());
+        assertEquals(1000, testTracker.getTotalIncome());
+        assertEquals(1.0 / 3, testTracker.getQueryCacheHitRate());
+        testTracker.addEntry(new Expense(descriptions, "grab", 12));
+        assertEquals(57, testTracker.getTotalExpense());
+    }
 }
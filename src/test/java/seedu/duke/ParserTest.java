@@ -1,14 +1,20 @@
 package seedu.duke;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 import seedu.commands.AddExpenseCommand;
+import seedu.commands.AnalyzeExpenseCommand;
 import seedu.commands.Command;
 import seedu.commands.HelpCommand;
 import seedu.commands.InvalidCommand;
 import seedu.commands.DeleteIncomeCommand;
 import seedu.commands.ListIncomeCommand;
+import seedu.utility.ExpenseStatistics;
+import seedu.utility.FinancialTracker;
+import seedu.utility.Ui;
 
 public class ParserTest {
     @Test
@@ -66,4 +72,74 @@ public class ParserTest {
         Command underTest = testParser.parseCommand("total_in                 fddgf");
         assertTrue(underTest.getClass() == InvalidCommand.class);
     }
+
+    @Test
+    public void testParseCommandForValidAnalyze() {
+        Parser testParser = new Parser();
+        Command underTest = testParser.parseCommand("analyze");
+        assertTrue(underTest.getClass() == AnalyzeExpenseCommand.class);
+    }
+
+    @Test
+    public void testExecuteParsedAddCommandsForAnalyze() {
+        Parser testParser = new Parser();
+        FinancialTracker testTracker = new FinancialTracker();
+        Ui testUi = new Ui();
+        testParser.parseCommand("add_ex d/lunch a/5").execute(testTracker, testUi);
+        testParser.parseCommand("add_in d/salary a/1000").execute(testTracker, testUi);
+        testParser.parseCommand("add_ex d/rent a/40").execute(testTracker, testUi);
+        ExpenseStatistics statistics = testTracker.getExpenseStatistics();
+        assertEquals(2, statistics.getCount());
+        assertEquals(40, statistics.getMaximum());
+    }
+
+    @Test
+    public void testExecuteParsedReadCommandsForCachedResults() {
+        Parser testParser = new Parser();
+        FinancialTracker testTracker = new FinancialTracker();
+        Ui testUi = new Ui();
+        testParser.parseCommand("add_ex d/lunch a/5").execute(testTracker, testUi);
+        testParser.parseCommand("list_ex").execute(testTracker, testUi);
+        testParser.parseCommand("total_ex").execute(testTracker, testUi);
+        testParser.parseCommand("list_ex").execute(testTracker, testUi);
+        testParser.parseCommand("total_ex").execute(testTracker, testUi);
+        assertEquals(0.5, testTracker.getQueryCacheHitRate());
+    }
+
+    @Test
+    public void testExecuteParsedDeleteCommandForFreshListing() {
+        Parser testParser = new Parser();
+        FinancialTracker testTracker = new FinancialTracker();
+        Ui testUi = new Ui();
+        testParser.parseCommand("add_ex d/lunch a/5").execute(testTracker, testUi);
+        testParser.parseCommand("add_ex d/rent a/40").execute(testTracker, testUi);
+        testParser.parseCommand("add_ex d/grab a/12").execute(testTracker, testUi);
+        testParser.parseCommand("list_ex").execute(testTracker, testUi);
+        testParser.parseCommand("del_ex i/1").execute(testTracker, testUi);
+        testParser.parseCommand("list_ex").execute(testTracker, testUi);
+        assertEquals(0.0, testTracker.getQueryCacheHitRate());
+        assertEquals(2, testTracker.listExpense().size());
+        assertEquals("rent", testTracker.listExpense().get(0).getDescription());
+    }
+
+    @Test
+    public void testExecuteParsedDeleteCommandForInvalidIndex() {
+        Parser testParser = new Parser();
+        FinancialTracker testTracker = new FinancialTracker();
+        Ui testUi = new Ui();
+        testParser.parseCommand("add_in d/salary a/1000").execute(testTracker, testUi);
+        testParser.parseCommand("del_in i/2").execute(testTracker, testUi);
+        assertEquals(1, testTracker.size());
+    }
+
+    @Test
+    public void testExecuteParsedAddCommandsForSharedDescription() {
+        Parser testParser = new Parser();
+        FinancialTracker testTracker = new FinancialTracker();
+        Ui testUi = new Ui();
+        testParser.parseCommand("add_ex d/lunch a/5").execute(testTracker, testUi);
+        testParser.parseCommand("add_ex d/lunch a/7").execute(testTracker, testUi);
+        assertSame(testTracker.listExpense().get(0).getDescription(),
+                testTracker.listExpense().get(1).getDescription());
+    }
 }
@@ -0,0 +1,43 @@
+package seedu.duke;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import seedu.utility.QueryCache;
+
+public class QueryCacheTest {
+    @Test
+    public void get_beyondCapacity_expectLeastRecentlyAccessedEvicted() {
+        QueryCache testCache = new QueryCache(2);
+        testCache.get("expense", "list", () -> 1);
+        testCache.get("expense", "total", () -> 2);
+        testCache.get("expense", "list", () -> 0);
+        testCache.get("income", "list", () -> 3);
+        assertEquals(2, testCache.size());
+        assertEquals(1, (int) testCache.get("expense", "list", () -> 0));
+        assertEquals(4, (int) testCache.get("expense", "total", () -> 4));
+    }
+
+    @Test
+    public void invalidate_oneEntryType_expectOtherEntryTypeKept() {
+        QueryCache testCache = new QueryCache(2);
+        testCache.get("expense", "list", () -> 1);
+        testCache.get("income", "list", () -> 2);
+        testCache.invalidate("expense");
+        assertEquals(1, testCache.size());
+        assertEquals(2, (int) testCache.get("income", "list", () -> 0));
+        assertEquals(5, (int) testCache.get("expense", "list", () -> 5));
+    }
+
+    @Test
+    public void get_repeatedQueries_expectHitsAndMissesCounted() {
+        QueryCache testCache = new QueryCache(2);
+        testCache.get("expense", "list", () -> 1);
+        testCache.get("expense", "list", () -> 1);
+        testCache.get("expense", "list", () -> 1);
+        testCache.get("income", "list", () -> 2);
+        assertEquals(2, testCache.getHits());
+        assertEquals(2, testCache.getMisses());
+        assertEquals(0.5, testCache.getHitRate());
+    }
+}